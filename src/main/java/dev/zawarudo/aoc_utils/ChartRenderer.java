@@ -0,0 +1,48 @@
+package dev.zawarudo.aoc_utils;
+
+import dev.zawarudo.aoc_utils.data.AdventDay;
+import dev.zawarudo.aoc_utils.graph.AdventOfCodeGraph;
+import dev.zawarudo.aoc_utils.graph.ChartType;
+import dev.zawarudo.aoc_utils.graph.GraphTheme;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Contains all AWT and ImageIO usage of the command line interface, so that these classes are only loaded if a raster
+ * output is actually requested.
+ */
+final class ChartRenderer {
+
+    private ChartRenderer() {
+    }
+
+    static void render(ChartType type, GraphTheme theme, int year, int leaderboardId, List<AdventDay> days,
+                       String format, Path file) throws IOException {
+        AdventOfCodeGraph graph = AdventOfCodeGraph.createGraph(type, year, leaderboardId, null);
+        graph.setTheme(theme);
+        BufferedImage image = graph.generateImage(days);
+
+        if (!ImageIO.write(toFormatCompatible(image, format), format, file.toFile())) {
+            throw new IOException("No image writer found for format " + format);
+        }
+    }
+
+    /**
+     * Formats without alpha support (e.g. jpg) are not written by ImageIO, so the image is flattened to RGB first.
+     */
+    private static BufferedImage toFormatCompatible(BufferedImage image, String format) {
+        if ("png".equals(format)) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = rgb.createGraphics();
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return rgb;
+    }
+}
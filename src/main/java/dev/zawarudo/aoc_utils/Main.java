@@ -1,33 +1,151 @@
 package dev.zawarudo.aoc_utils;
 
-import dev.zawarudo.aoc_utils.graph.AdventOfCodeGraph;
+import dev.zawarudo.aoc_utils.data.AdventDay;
+import dev.zawarudo.aoc_utils.data.AdventOfCodeAPI;
 import dev.zawarudo.aoc_utils.graph.ChartType;
+import dev.zawarudo.aoc_utils.graph.GraphTheme;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 // Amos' leaderboard id: 951576
 // Lu's leaderboard id: 1514956
 
+/**
+ * Headless command line interface that renders any number of leaderboards, chart types and output formats
+ * in a single JVM run. AWT, fonts and themes are only initialized if a raster format is requested.
+ */
 public class Main {
 
+    private static final String USAGE = """
+            Usage: java -jar aoc-utils.jar [options]
+              -l, --leaderboard <id,...>  Leaderboard IDs to render (required unless --sample is used)
+              -y, --year <year>           Year of the event (default: current year)
+              -t, --type <type,...>       Chart types: bar, stacked (default: stacked)
+              -f, --format <format,...>   Output formats: png, jpg, csv (default: png)
+                  --theme <theme>         Graph theme: aoc, wood (default: aoc)
+              -o, --output <dir>          Output directory (default: ./out/graphs)
+                  --token <file>          File containing the session token (default: token.txt)
+                  --sample                Use the bundled sample leaderboard instead of fetching from adventofcode.com
+              -h, --help                  Print this help
+            """;
+
     public static void main(String[] args) throws IOException {
-        String session = loadToken();
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        if (options.help) {
+            System.out.print(USAGE);
+            return;
+        }
+
+        String session;
+        try {
+            session = options.sample ? "sample" : loadToken(options.tokenFile);
+        } catch (IOException e) {
+            System.err.printf("Cannot read session token from %s: %s%n", options.tokenFile, e);
+            System.exit(2);
+            return;
+        }
+
+        try {
+            Files.createDirectories(options.outputDir);
+        } catch (IOException e) {
+            System.err.printf("Cannot create output directory %s: %s%n", options.outputDir, e);
+            System.exit(1);
+            return;
+        }
+
+        boolean failed;
+        if (options.sample) {
+            try (SampleLeaderboardServer server = new SampleLeaderboardServer()) {
+                failed = renderAll(options, server.getBaseUri(), session);
+            }
+        } else {
+            failed = renderAll(options, AdventOfCodeAPI.BASE_URI, session);
+        }
+
+        if (failed) {
+            System.exit(1);
+        }
+    }
 
-        AdventOfCodeGraph graph = AdventOfCodeGraph.createGraph(ChartType.STACKED_BAR_CHART, 2023, 1514956, session);
-        // graph.setTheme(GraphTheme.WOOD);
-        BufferedImage image = graph.generateImage();
+    /**
+     * Renders every requested output of every leaderboard. A failing leaderboard is reported and skipped, so that
+     * the remaining ones are still rendered.
+     *
+     * @return {@code true} if at least one leaderboard failed.
+     */
+    private static boolean renderAll(Options options, URI baseUri, String session) {
+        boolean failed = false;
+        String dateTime = getCurrentDateTime();
 
-        String name = String.format("aoc_%s.png", getCurrentDateTime());
-        File file = new File("./out/graphs/" + name);
-        new File(file.getParent()).mkdirs();
-        ImageIO.write(image, "png", file);
+        for (int leaderboardId : options.leaderboardIds) {
+            List<AdventDay> days;
+            try {
+                days = AdventOfCodeAPI.getAdventDays(baseUri, options.year, leaderboardId, session);
+            } catch (RuntimeException e) {
+                System.err.printf("Failed to fetch leaderboard %d: %s%n", leaderboardId, e.getMessage());
+                failed = true;
+                continue;
+            }
+
+            try {
+                writeOutputs(options, leaderboardId, days, dateTime);
+            } catch (IOException | RuntimeException e) {
+                System.err.printf("Failed to write output of leaderboard %d: %s%n", leaderboardId, e);
+                failed = true;
+            }
+        }
+        return failed;
+    }
+
+    private static void writeOutputs(Options options, int leaderboardId, List<AdventDay> days, String dateTime) throws IOException {
+        String baseName = String.format("aoc_%d_%d_%s", options.year, leaderboardId, dateTime);
+
+        for (OutputFormat format : options.formats) {
+            if (format.isRaster()) {
+                for (ChartType type : options.types) {
+                    String name = String.format("%s_%s.%s", baseName, type.name().toLowerCase(Locale.ROOT), format.getExtension());
+                    ChartRenderer.render(type, options.theme, options.year, leaderboardId, days, format.getExtension(), options.outputDir.resolve(name));
+                }
+            } else {
+                writeCsv(days, options.outputDir.resolve(baseName + "." + format.getExtension()));
+            }
+        }
+    }
+
+    private static void writeCsv(List<AdventDay> days, Path file) throws IOException {
+        StringBuilder builder = new StringBuilder("day,two_stars,one_star,no_stars\n");
+        for (AdventDay day : days) {
+            builder.append(day.day()).append(',')
+                    .append(day.goldCount()).append(',')
+                    .append(day.silverCount()).append(',')
+                    .append(day.grayCount()).append('\n');
+        }
+        Files.writeString(file, builder);
     }
 
     private static String getCurrentDateTime() {
@@ -36,7 +154,133 @@ public class Main {
         return now.format(formatter);
     }
 
-    private static String loadToken() throws IOException {
-        return Files.readString(Path.of("token.txt")).trim();
+    private static String loadToken(Path file) throws IOException {
+        return Files.readString(file).trim();
+    }
+
+    enum OutputFormat {
+        PNG("png", true),
+        JPG("jpg", true),
+        CSV("csv", false);
+
+        private final String extension;
+        private final boolean raster;
+
+        OutputFormat(String extension, boolean raster) {
+            this.extension = extension;
+            this.raster = raster;
+        }
+
+        String getExtension() {
+            return extension;
+        }
+
+        boolean isRaster() {
+            return raster;
+        }
+    }
+
+    static final class Options {
+
+        final Set<Integer> leaderboardIds = new LinkedHashSet<>();
+        final Set<ChartType> types = EnumSet.noneOf(ChartType.class);
+        final Set<OutputFormat> formats = EnumSet.noneOf(OutputFormat.class);
+        int year = Year.now().getValue();
+        GraphTheme theme = GraphTheme.AOC;
+        Path outputDir = Path.of("out", "graphs");
+        Path tokenFile = Path.of("token.txt");
+        boolean sample;
+        boolean help;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "-h", "--help" -> options.help = true;
+                    case "--sample" -> options.sample = true;
+                    case "-l", "--leaderboard" -> {
+                        for (String id : splitValues(arg, args, ++i)) {
+                            options.leaderboardIds.add(parseInt(arg, id));
+                        }
+                    }
+                    case "-y", "--year" -> options.year = parseInt(arg, value(arg, args, ++i));
+                    case "-t", "--type" -> {
+                        for (String type : splitValues(arg, args, ++i)) {
+                            options.types.add(parseChartType(type));
+                        }
+                    }
+                    case "-f", "--format" -> {
+                        for (String format : splitValues(arg, args, ++i)) {
+                            options.formats.add(parseEnum(OutputFormat.class, "format", format));
+                        }
+                    }
+                    case "--theme" -> options.theme = parseEnum(GraphTheme.class, "theme", value(arg, args, ++i));
+                    case "-o", "--output" -> options.outputDir = Path.of(value(arg, args, ++i));
+                    case "--token" -> options.tokenFile = Path.of(value(arg, args, ++i));
+                    default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+
+            if (options.help) {
+                return options;
+            }
+            if (options.leaderboardIds.isEmpty()) {
+                if (!options.sample) {
+                    throw new IllegalArgumentException("At least one leaderboard ID is required.");
+                }
+                options.leaderboardIds.add(0);
+            }
+            if (options.types.isEmpty()) {
+                options.types.add(ChartType.STACKED_BAR_CHART);
+            }
+            if (options.formats.isEmpty()) {
+                options.formats.add(OutputFormat.PNG);
+            }
+            return options;
+        }
+
+        private static String value(String option, String[] args, int index) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException("Missing value for option " + option);
+            }
+            return args[index];
+        }
+
+        private static List<String> splitValues(String option, String[] args, int index) {
+            List<String> values = new ArrayList<>();
+            for (String value : value(option, args, index).split(",")) {
+                if (!value.isBlank()) {
+                    values.add(value.trim());
+                }
+            }
+            return values;
+        }
+
+        private static int parseInt(String option, String value) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(String.format("Invalid number for option %s: %s", option, value), e);
+            }
+        }
+
+        private static ChartType parseChartType(String value) {
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "area" -> throw new IllegalArgumentException("Area charts are not supported yet.");
+                case "bar" -> ChartType.BAR_CHART;
+                case "stacked" -> ChartType.STACKED_BAR_CHART;
+                default -> throw new IllegalArgumentException("Unknown chart type: " + value);
+            };
+        }
+
+        private static <T extends Enum<T>> T parseEnum(Class<T> type, String name, String value) {
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("Unknown %s: %s", name, value), e);
+            }
+        }
     }
-}
\ No newline at end of file
+}
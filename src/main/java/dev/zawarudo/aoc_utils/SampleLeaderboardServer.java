@@ -0,0 +1,53 @@
+package dev.zawarudo.aoc_utils;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+
+/**
+ * Local HTTP server that answers every leaderboard request with the bundled sample leaderboard. Sample runs therefore
+ * go through the same HTTP client and JSON parsing as real runs, which also makes them a representative training run
+ * for the class-data-sharing archive.
+ */
+final class SampleLeaderboardServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    SampleLeaderboardServer() throws IOException {
+        byte[] body = loadSampleLeaderboard();
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+    }
+
+    URI getBaseUri() {
+        InetSocketAddress address = server.getAddress();
+        return URI.create(String.format("http://%s:%d", address.getHostString(), address.getPort()));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static byte[] loadSampleLeaderboard() throws IOException {
+        try (InputStream is = SampleLeaderboardServer.class.getResourceAsStream("/sample_leaderboard.json")) {
+            if (is == null) {
+                throw new IllegalStateException("Failed to load sample_leaderboard.json! Check that the file is at the right location.");
+            }
+            return is.readAllBytes();
+        }
+    }
+}
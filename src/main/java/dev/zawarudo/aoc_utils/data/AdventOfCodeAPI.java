@@ -1,6 +1,7 @@
 package dev.zawarudo.aoc_utils.data;
 
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 
 import java.io.IOException;
@@ -17,15 +18,29 @@ import java.util.List;
 
 public final class AdventOfCodeAPI {
 
+    public static final URI BASE_URI = URI.create("https://adventofcode.com");
+
     private static int year;
 
     private AdventOfCodeAPI() {
     }
 
     public static List<AdventDay> getAdventDays(int year, int leaderboardId, String sessionKey) {
+        return getAdventDays(BASE_URI, year, leaderboardId, sessionKey);
+    }
+
+    /**
+     * Fetches the leaderboard from the given host instead of the Advent of Code website, e.g. from a local server
+     * serving sample data.
+     */
+    public static List<AdventDay> getAdventDays(URI baseUri, int year, int leaderboardId, String sessionKey) {
         AdventOfCodeAPI.year = year;
 
-        JsonObject members = fetchJson(year, leaderboardId, sessionKey).get("members").getAsJsonObject();
+        JsonObject json = fetchJson(baseUri, year, leaderboardId, sessionKey);
+        if (!json.has("members")) {
+            throw new IllegalStateException(String.format("No access to leaderboard %d, check the session token.", leaderboardId));
+        }
+        JsonObject members = json.get("members").getAsJsonObject();
         List<JsonObject> completionRates = new ArrayList<>();
 
         for (String key : members.keySet()) {
@@ -35,27 +50,35 @@ public final class AdventOfCodeAPI {
         return parseData(completionRates);
     }
 
-    private static JsonObject fetchJson(int year, int leaderboardId, String sessionKey) {
-        String url = String.format("https://adventofcode.com/%d/leaderboard/private/view/%d.json", year, leaderboardId);
+    private static JsonObject fetchJson(URI baseUri, int year, int leaderboardId, String sessionKey) {
+        String url = String.format("%s/%d/leaderboard/private/view/%d.json", baseUri, year, leaderboardId);
 
         CookieHandler.setDefault(new CookieManager());
         HttpCookie cookie = new HttpCookie("session", sessionKey);
         cookie.setPath("/");
         cookie.setVersion(0);
 
-        String body = "{\"Message\": \"Error\"}";
-
+        HttpResponse<String> response;
         try {
-            ((CookieManager) CookieHandler.getDefault()).getCookieStore().add(new URI("https://adventofcode.com"), cookie);
+            ((CookieManager) CookieHandler.getDefault()).getCookieStore().add(baseUri, cookie);
             HttpClient client = HttpClient.newBuilder().cookieHandler(CookieHandler.getDefault()).connectTimeout(Duration.ofSeconds(10)).build();
             HttpRequest req = HttpRequest.newBuilder().uri(URI.create(url)).GET().setHeader("Content-Type", "application/json").build();
-            HttpResponse<String> response = client.send(req, HttpResponse.BodyHandlers.ofString());
-            body = response.body();
-        } catch (URISyntaxException | IOException | InterruptedException e) {
-            e.printStackTrace();
+            response = client.send(req, HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching " + url, e);
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Failed to fetch %s: %s", url, e), e);
         }
 
-        return JsonParser.parseString(body).getAsJsonObject();
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(String.format("Request to %s failed with status %d.", url, response.statusCode()));
+        }
+        try {
+            return JsonParser.parseString(response.body()).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IllegalStateException(String.format("Response of %s is not a JSON object, check the session token.", url), e);
+        }
     }
 
     private static List<AdventDay> parseData(List<JsonObject> dataList) {
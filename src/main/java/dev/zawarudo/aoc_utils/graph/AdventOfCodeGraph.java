@@ -42,6 +42,10 @@ public abstract class AdventOfCodeGraph {
     protected int leaderboardId;
     protected String sessionKey;
 
+    protected GraphTheme graphTheme = GraphTheme.AOC;
+    /**
+     * The loaded colors of {@link #graphTheme}, only resolved once an image is generated.
+     */
     protected Theme theme;
 
     /**
@@ -61,8 +65,6 @@ public abstract class AdventOfCodeGraph {
         this.year = year;
         this.leaderboardId = leaderboardId;
         this.sessionKey = sessionKey;
-
-        theme = GraphTheme.AOC.load();
     }
 
     /**
@@ -77,17 +79,25 @@ public abstract class AdventOfCodeGraph {
     }
 
     public void setTheme(GraphTheme theme) {
-        this.theme = theme.load();
+        this.graphTheme = theme;
     }
 
     public BufferedImage generateImage() {
+        return generateImage(AdventOfCodeAPI.getAdventDays(year, leaderboardId, sessionKey));
+    }
+
+    /**
+     * Generates the image from already fetched leaderboard data, e.g. to render several charts of the same
+     * leaderboard without requesting it multiple times.
+     */
+    public BufferedImage generateImage(List<AdventDay> days) {
+        theme = graphTheme.load();
+
         BufferedImage result = new BufferedImage(IMAGE_WIDTH, IMAGE_HEIGHT, BufferedImage.TYPE_INT_ARGB_PRE);
         Graphics2D g2d = result.createGraphics();
 
         drawBackground(g2d, result);
 
-        List<AdventDay> days = AdventOfCodeAPI.getAdventDays(year, leaderboardId, sessionKey);
-
         participants = getParticipantCount(days);
         maxCount = roundUp(participants);
         rows = calculateNumberRows();
@@ -21,14 +21,29 @@ final class FontUtils {
         return font.deriveFont(affineTransform);
     }
 
+    /**
+     * Returns the bundled font in the given size. The font file is only parsed once, on first use.
+     */
     static Font loadFontFromFile(float fontSize) {
-        try (InputStream is = AdventOfCodeGraph.class.getResourceAsStream("/fonts/ComicSansBold.ttf")) {
-            if (is == null) {
-                throw new IllegalStateException("Font file not found at ./src/main/resources/ComicSansBold.ttf");
+        return BaseFontHolder.FONT.deriveFont(fontSize);
+    }
+
+    /**
+     * Holder for the base font, so that the font file is read lazily and only once.
+     */
+    private static final class BaseFontHolder {
+
+        private static final Font FONT = createBaseFont();
+
+        private static Font createBaseFont() {
+            try (InputStream is = AdventOfCodeGraph.class.getResourceAsStream("/fonts/ComicSansBold.ttf")) {
+                if (is == null) {
+                    throw new IllegalStateException("Font file not found at ./src/main/resources/ComicSansBold.ttf");
+                }
+                return Font.createFont(Font.TRUETYPE_FONT, is);
+            } catch (IOException | FontFormatException e) {
+                throw new IllegalStateException("Error loading font file!", e);
             }
-            return Font.createFont(Font.TRUETYPE_FONT, is).deriveFont(fontSize);
-        } catch (IOException | FontFormatException e) {
-            throw new IllegalStateException("Error loading font file!", e);
         }
     }
 }
\ No newline at end of file
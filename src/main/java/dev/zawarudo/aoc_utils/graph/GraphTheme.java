@@ -15,11 +15,23 @@ public enum GraphTheme {
 
     private final String name;
 
+    /**
+     * The parsed theme, loaded on first use.
+     */
+    private Theme theme;
+
     GraphTheme(String name) {
         this.name = name;
     }
 
-    Theme load() {
+    synchronized Theme load() {
+        if (theme == null) {
+            theme = parse();
+        }
+        return theme;
+    }
+
+    private Theme parse() {
         try {
             InputStream inputStream = getClass().getClassLoader().getResourceAsStream("graph_themes.json");
             if (inputStream == null) {
@@ -0,0 +1,72 @@
+package dev.zawarudo.aoc_utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MainBatchTest {
+
+    @Test
+    void writesEveryFormatAndChartTypeOfTheSampleLeaderboard(@TempDir Path dir) throws IOException {
+        Main.main(new String[]{"--sample", "-y", "2023", "-f", "csv,png", "-t", "bar,stacked", "-o", dir.toString()});
+
+        List<String> files = listFiles(dir);
+        assertEquals(3, files.size(), files.toString());
+        assertTrue(files.stream().anyMatch(f -> f.matches("aoc_2023_0_[\\d._-]+\\.csv")), files.toString());
+        assertTrue(files.stream().anyMatch(f -> f.matches("aoc_2023_0_[\\d._-]+_bar_chart\\.png")), files.toString());
+        assertTrue(files.stream().anyMatch(f -> f.matches("aoc_2023_0_[\\d._-]+_stacked_bar_chart\\.png")), files.toString());
+
+        for (String file : files) {
+            assertTrue(Files.size(dir.resolve(file)) > 0, file);
+        }
+    }
+
+    @Test
+    void writesOneCsvRowPerDay(@TempDir Path dir) throws IOException {
+        Main.main(new String[]{"--sample", "-y", "2023", "-f", "csv", "-o", dir.toString()});
+
+        List<String> files = listFiles(dir);
+        assertEquals(1, files.size(), files.toString());
+
+        List<String> lines = Files.readAllLines(dir.resolve(files.get(0)));
+        assertEquals("day,two_stars,one_star,no_stars", lines.get(0));
+        assertEquals(26, lines.size());
+        for (int day = 1; day <= 25; day++) {
+            String[] values = lines.get(day).split(",");
+            assertEquals(String.valueOf(day), values[0]);
+            int participants = Integer.parseInt(values[1]) + Integer.parseInt(values[2]) + Integer.parseInt(values[3]);
+            assertEquals(16, participants, lines.get(day));
+        }
+        assertEquals("1,16,0,0", lines.get(1));
+    }
+
+    @Test
+    void csvOnlyRunDoesNotLoadAwt(@TempDir Path dir) throws IOException, InterruptedException {
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(java.toString(), "-verbose:class",
+                "-cp", System.getProperty("java.class.path"),
+                Main.class.getName(), "--sample", "-y", "2023", "-f", "csv", "-o", dir.toString())
+                .redirectErrorStream(true)
+                .start();
+
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals(0, process.waitFor(), output);
+        assertTrue(output.contains(Main.class.getName()), "class loading was not logged");
+        assertFalse(output.contains("java.awt."), "csv-only run loaded AWT classes");
+        assertEquals(1, listFiles(dir).size());
+    }
+
+    private static List<String> listFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(f -> f.getFileName().toString()).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.zawarudo.aoc_utils;
+
+import dev.zawarudo.aoc_utils.Main.OutputFormat;
+import dev.zawarudo.aoc_utils.graph.ChartType;
+import dev.zawarudo.aoc_utils.graph.GraphTheme;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MainOptionsTest {
+
+    @Test
+    void appliesDefaults() {
+        Main.Options options = Main.Options.parse(new String[]{"--leaderboard", "42"});
+
+        assertEquals(Set.of(42), options.leaderboardIds);
+        assertEquals(Year.now().getValue(), options.year);
+        assertEquals(Set.of(ChartType.STACKED_BAR_CHART), options.types);
+        assertEquals(Set.of(OutputFormat.PNG), options.formats);
+        assertEquals(GraphTheme.AOC, options.theme);
+        assertEquals(Path.of("out", "graphs"), options.outputDir);
+        assertEquals(Path.of("token.txt"), options.tokenFile);
+        assertFalse(options.sample);
+    }
+
+    @Test
+    void parsesCommaSeparatedAndRepeatedValues() {
+        Main.Options options = Main.Options.parse(new String[]{
+                "-l", "1, 2", "--leaderboard", "3,1", "-t", "bar,stacked", "-f", "PNG,csv",
+                "-y", "2023", "--theme", "wood", "-o", "charts", "--token", "session.txt"
+        });
+
+        assertEquals(List.of(1, 2, 3), List.copyOf(options.leaderboardIds));
+        assertEquals(Set.of(ChartType.BAR_CHART, ChartType.STACKED_BAR_CHART), options.types);
+        assertEquals(Set.of(OutputFormat.PNG, OutputFormat.CSV), options.formats);
+        assertEquals(2023, options.year);
+        assertEquals(GraphTheme.WOOD, options.theme);
+        assertEquals(Path.of("charts"), options.outputDir);
+        assertEquals(Path.of("session.txt"), options.tokenFile);
+    }
+
+    @Test
+    void sampleWithoutLeaderboardUsesPlaceholderId() {
+        Main.Options options = Main.Options.parse(new String[]{"--sample"});
+
+        assertTrue(options.sample);
+        assertEquals(Set.of(0), options.leaderboardIds);
+    }
+
+    @Test
+    void helpSkipsValidation() {
+        assertTrue(Main.Options.parse(new String[]{"--help"}).help);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Main.Options.parse(new String[0]));
+        assertThrows(IllegalArgumentException.class, () -> Main.Options.parse(new String[]{"--leaderboard"}));
+        assertThrows(IllegalArgumentException.class, () -> Main.Options.parse(new String[]{"-l", "abc"}));
+        assertThrows(IllegalArgumentException.class, () -> Main.Options.parse(new String[]{"-l", "1", "--bogus"}));
+        assertThrows(IllegalArgumentException.class, () -> Main.Options.parse(new String[]{"-l", "1", "-f", "gif"}));
+        assertThrows(IllegalArgumentException.class, () -> Main.Options.parse(new String[]{"-l", "1", "--theme", "dark"}));
+    }
+
+    @Test
+    void rejectsUnsupportedAreaChart() {
+        assertThrows(IllegalArgumentException.class, () -> Main.Options.parse(new String[]{"-l", "1", "-t", "area"}));
+    }
+}